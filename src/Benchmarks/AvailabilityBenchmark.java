@@ -0,0 +1,204 @@
+package Benchmarks;
+
+import Bookings.AvailabilityQuery;
+import Bookings.Booking;
+import Bookings.BookingCalendar;
+import Repository.BoundedVehicleRepository;
+import Repository.JsonBookingRepository;
+import Repository.JsonVehicleRepository;
+import Repository.VehicleRepositoryInterface;
+import Repository.VehicleWrite;
+import Services.BookingService;
+import Validators.BookingValidator;
+import Vehicles.Vehicle;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Availability search over one million bookings, through the same code path the app uses
+ * Run: mvn compile && java -Xmx2g -cp target/classes:<gson jar> Benchmarks.AvailabilityBenchmark [bookings] [vehicles]
+ * <p>
+ * Writes vehicles.json and bookings.json to a temp directory, then times
+ * BookingService.findAvailableVehicleIds() (the search itself: VehicleCatalog + BookingCalendar,
+ * no file I/O) and findAvailableVehicles() (search, then load the matching records) on top of
+ * JsonVehicleRepository (one pass over vehicles.json) and BoundedVehicleRepository (offset index
+ * and cache per match). The baseline is a naive scan of every booking held in memory.
+ * Every method must return the same vehicles.
+ */
+public class AvailabilityBenchmark {
+
+    private static final long HOUR = 60L * 60 * 1000;
+    // 2026-01-01 00:00 UTC; BookingValidator rejects start times <= 0
+    private static final long EPOCH = 1_767_225_600_000L;
+    private static final String[] BRANDS = {"BMW", "Toyota", "Ford", "Tesla", "Honda", "Kia", "Audi", "Fiat"};
+    private static final int WARMUP_QUERIES = 50;
+    private static final int QUERIES = 50;
+
+    public static void main(String[] args) throws IOException {
+        int bookingCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int vehicleCount = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        Random random = new Random(42);
+        File directory = Files.createTempDirectory("availability-benchmark").toFile();
+        File vehiclesFile = new File(directory, "vehicles.json");
+        File bookingsFile = new File(directory, "bookings.json");
+
+        // Fleet, written with one group commit
+        List<Vehicle> vehicles = new ArrayList<>(vehicleCount);
+        List<VehicleWrite> writes = new ArrayList<>(vehicleCount);
+        for (int i = 0; i < vehicleCount; i++) {
+            Vehicle vehicle = new Vehicle("Car " + i, BRANDS[i % BRANDS.length], 20 + random.nextInt(480));
+            vehicles.add(vehicle);
+            writes.add(VehicleWrite.save(vehicle));
+        }
+        new JsonVehicleRepository(vehiclesFile.getPath()).applyAll(writes);
+
+        // Each vehicle gets back-to-back bookings of 1-48 hours with 0-72 hour gaps
+        List<Booking> bookings = new ArrayList<>(bookingCount);
+        long[] nextFree = new long[vehicleCount];
+        for (int i = 0; i < bookingCount; i++) {
+            int v = i % vehicleCount;
+            long start = EPOCH + nextFree[v] + random.nextInt(73) * HOUR;
+            long end = start + (1 + random.nextInt(48)) * HOUR;
+            nextFree[v] = end - EPOCH;
+            bookings.add(new Booking(vehicles.get(v).getUuid(), "Customer " + i, start, end));
+        }
+        long horizon = 0;
+        for (long free : nextFree) {
+            horizon = Math.max(horizon, free);
+        }
+        // Same format JsonBookingRepository writes, in one go instead of a million appends
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        try (Writer writer = new FileWriter(bookingsFile)) {
+            gson.toJson(bookings, writer);
+        }
+
+        long started = System.nanoTime();
+        JsonBookingRepository bookingRepository = new JsonBookingRepository(bookingsFile.getPath());
+        VehicleRepositoryInterface jsonVehicles = new JsonVehicleRepository(vehiclesFile.getPath());
+        BookingService jsonService = new BookingService(bookingRepository, jsonVehicles, new BookingValidator());
+        System.out.printf("Loaded %,d bookings and the catalog of %,d vehicles from disk in %d ms%n",
+                bookingCount, vehicleCount, (System.nanoTime() - started) / 1_000_000);
+
+        VehicleRepositoryInterface boundedVehicles = new BoundedVehicleRepository(vehiclesFile.getPath(), 1_000);
+        BookingService boundedService = new BookingService(bookingRepository, boundedVehicles, new BookingValidator());
+
+        AvailabilityQuery[] workload = new AvailabilityQuery[WARMUP_QUERIES + QUERIES];
+        for (int i = 0; i < workload.length; i++) {
+            long start = EPOCH + (long) (random.nextDouble() * horizon);
+            String brand = i % 2 == 0 ? BRANDS[random.nextInt(BRANDS.length)] : null;
+            workload[i] = new AvailabilityQuery(start, start + 72 * HOUR, brand, 0, 100 + random.nextInt(400));
+        }
+
+        List<Set<String>> expected = new ArrayList<>();
+        for (AvailabilityQuery query : workload) {
+            expected.add(naiveScan(query, bookings, vehicles));
+        }
+
+        run("BookingService search (uuids only)", workload, expected, query -> new HashSet<>(jsonService.findAvailableVehicleIds(query)));
+        run("+ load records, JsonVehicleRepository", workload, expected, query -> uuids(jsonService.findAvailableVehicles(query)));
+        run("+ load records, BoundedVehicleRepository", workload, expected, query -> uuids(boundedService.findAvailableVehicles(query)));
+        // Calendar lookup for every vehicle, no catalog: shows what the brand/price index saves
+        BookingCalendar calendar = new BookingCalendar();
+        for (Booking booking : bookings) {
+            calendar.add(booking);
+        }
+        run("BookingCalendar for every vehicle (in memory)", workload, expected, query -> {
+            Set<String> available = new HashSet<>();
+            for (Vehicle vehicle : vehicles) {
+                if (query.matches(vehicle, calendar)) {
+                    available.add(vehicle.getUuid());
+                }
+            }
+            return available;
+        });
+        run("Naive scan of all bookings (in memory)", workload, expected, query -> naiveScan(query, bookings, vehicles));
+
+        // Booking attempts as made from the menu: validation, vehicle lookup, conflict check, append
+        int attempts = 10_000;
+        int confirmed = 0;
+        started = System.nanoTime();
+        for (int i = 0; i < attempts; i++) {
+            long start = EPOCH + (long) (random.nextDouble() * horizon);
+            Booking booking = new Booking(vehicles.get(random.nextInt(vehicleCount)).getUuid(), "Bench", start, start + 24 * HOUR);
+            if (boundedService.bookVehicle(booking).isSuccess()) {
+                confirmed++;
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("bookVehicle (bounded): %,d attempts, %.1f us/attempt (%,d confirmed)%n",
+                attempts, elapsed / 1_000.0 / attempts, confirmed);
+
+        for (File file : directory.listFiles()) {
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    private interface Search {
+        Set<String> run(AvailabilityQuery query);
+    }
+
+    /**
+     * Warm up on the first queries, then time the rest; every answer is checked against the naive scan
+     */
+    private static void run(String name, AvailabilityQuery[] workload, List<Set<String>> expected, Search search) {
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            check(name, i, search.run(workload[i]), expected.get(i));
+        }
+
+        long found = 0;
+        long started = System.nanoTime();
+        for (int i = WARMUP_QUERIES; i < workload.length; i++) {
+            Set<String> result = search.run(workload[i]);
+            check(name, i, result, expected.get(i));
+            found += result.size();
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("%-44s %d queries, %8.3f ms/query (%,d vehicles found)%n",
+                name + ":", QUERIES, elapsed / 1_000_000.0 / QUERIES, found);
+    }
+
+    private static void check(String name, int query, Set<String> actual, Set<String> expected) {
+        if (!actual.equals(expected)) {
+            throw new IllegalStateException(name + " returned " + actual.size() + " vehicles for query " + query
+                    + ", naive scan returned " + expected.size());
+        }
+    }
+
+    private static Set<String> naiveScan(AvailabilityQuery query, List<Booking> bookings, List<Vehicle> vehicles) {
+        Set<String> busy = new HashSet<>();
+        for (Booking booking : bookings) {
+            if (booking.overlaps(query.getStartTime(), query.getEndTime())) {
+                busy.add(booking.getVehicleUuid());
+            }
+        }
+        Set<String> available = new HashSet<>();
+        for (Vehicle vehicle : vehicles) {
+            if (!busy.contains(vehicle.getUuid())
+                    && vehicle.getPrice() >= query.getMinPrice() && vehicle.getPrice() <= query.getMaxPrice()
+                    && (query.getBrand() == null || query.getBrand().equalsIgnoreCase(vehicle.getBrand()))) {
+                available.add(vehicle.getUuid());
+            }
+        }
+        return available;
+    }
+
+    private static Set<String> uuids(List<Vehicle> vehicles) {
+        Set<String> uuids = new HashSet<>();
+        for (Vehicle vehicle : vehicles) {
+            uuids.add(vehicle.getUuid());
+        }
+        return uuids;
+    }
+}
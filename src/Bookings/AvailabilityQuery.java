@@ -0,0 +1,62 @@
+package Bookings;
+
+import Vehicles.Vehicle;
+
+/**
+ * "Which vehicles are free between start and end?" with optional brand and price filters
+ * The cheap vehicle filters run first, the calendar lookup only for vehicles that pass them
+ */
+public class AvailabilityQuery {
+
+    private final long startTime;
+    private final long endTime;
+    private final String brand;
+    private final double minPrice;
+    private final double maxPrice;
+
+    /**
+     * @param brand    null or empty means any brand (compared case-insensitively)
+     * @param minPrice inclusive, use 0 for no lower bound
+     * @param maxPrice inclusive, use Double.MAX_VALUE for no upper bound
+     */
+    public AvailabilityQuery(long startTime, long endTime, String brand, double minPrice, double maxPrice) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.brand = brand == null || brand.trim().isEmpty() ? null : brand.trim();
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public String getBrand() {
+        return brand;
+    }
+
+    public double getMinPrice() {
+        return minPrice;
+    }
+
+    public double getMaxPrice() {
+        return maxPrice;
+    }
+
+    /**
+     * True if the vehicle passes the filters and has no booking in the range
+     */
+    public boolean matches(Vehicle vehicle, BookingCalendar calendar) {
+        if (vehicle.getPrice() < minPrice || vehicle.getPrice() > maxPrice) {
+            return false;
+        }
+        if (brand != null && !brand.equalsIgnoreCase(vehicle.getBrand())) {
+            return false;
+        }
+        return calendar.isAvailable(vehicle.getUuid(), startTime, endTime);
+    }
+}
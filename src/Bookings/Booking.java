@@ -0,0 +1,54 @@
+package Bookings;
+
+import java.util.UUID;
+
+/**
+ * A rental of one vehicle for the half-open time range [startTime, endTime)
+ * Times are epoch milliseconds, so a booking ending at 10:00 and one starting at 10:00 do not overlap
+ */
+public class Booking {
+
+    private final String uuid;
+    private final String vehicleUuid;
+    private final String customerName;
+    private final long startTime;
+    private final long endTime;
+
+    // new Booking, UUID is generated automatically
+    public Booking(String vehicleUuid, String customerName, long startTime, long endTime) {
+        this(UUID.randomUUID().toString(), vehicleUuid, customerName, startTime, endTime);
+    }
+
+    // loading existing Booking with known UUID
+    public Booking(String uuid, String vehicleUuid, String customerName, long startTime, long endTime) {
+        this.uuid = uuid;
+        this.vehicleUuid = vehicleUuid;
+        this.customerName = customerName;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public String getVehicleUuid() {
+        return vehicleUuid;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public long getEndTime() {
+        return endTime;
+    }
+
+    public boolean overlaps(long start, long end) {
+        return startTime < end && start < endTime;
+    }
+}
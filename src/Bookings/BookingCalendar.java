@@ -0,0 +1,175 @@
+package Bookings;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of bookings per vehicle
+ * Single Responsibility: Answer "is this vehicle free between T1 and T2?" fast
+ * <p>
+ * Each vehicle's bookings never overlap, so they form a sorted set of disjoint intervals.
+ * A range [start, end) conflicts only with the booking that starts last strictly before 'end'
+ * (not at 'end': a booking starting exactly at 'end' does not overlap [start, end)) -
+ * one binary search, O(log n) per vehicle.
+ * <p>
+ * The intervals live in plain sorted long[] arrays rather than a TreeMap&lt;Long, Booking&gt;:
+ * a lookup then touches one or two contiguous arrays instead of a chain of tree nodes and boxed
+ * keys, which is what a fleet-wide search is made of. Adding or removing a booking shifts the
+ * vehicle's arrays, O(n) in that vehicle's bookings - cheap next to the file write that follows.
+ * <p>
+ * No file I/O here; BookingService loads and persists it.
+ */
+public class BookingCalendar {
+
+    private final Map<String, Schedule> bookingsByVehicle = new HashMap<>();
+    private final Map<String, Booking> bookingsById = new HashMap<>();
+
+    /**
+     * The existing booking that overlaps [start, end) for this vehicle, or null if the vehicle is free
+     */
+    public Booking findConflict(String vehicleUuid, long start, long end) {
+        Schedule schedule = bookingsByVehicle.get(vehicleUuid);
+        if (schedule == null) {
+            return null;
+        }
+        int candidate = schedule.conflict(start, end);
+        return candidate < 0 ? null : schedule.bookings[candidate];
+    }
+
+    public boolean isAvailable(String vehicleUuid, long start, long end) {
+        Schedule schedule = bookingsByVehicle.get(vehicleUuid);
+        return schedule == null || schedule.conflict(start, end) < 0;
+    }
+
+    /**
+     * Add a booking; returns false (and adds nothing) if it overlaps an existing one
+     */
+    public boolean add(Booking booking) {
+        if (!isAvailable(booking.getVehicleUuid(), booking.getStartTime(), booking.getEndTime())) {
+            return false;
+        }
+        bookingsByVehicle.computeIfAbsent(booking.getVehicleUuid(), key -> new Schedule()).insert(booking);
+        bookingsById.put(booking.getUuid(), booking);
+        return true;
+    }
+
+    /**
+     * Remove a booking by id, returns the removed booking or null
+     */
+    public Booking remove(String bookingId) {
+        Booking booking = bookingsById.remove(bookingId);
+        if (booking == null) {
+            return null;
+        }
+        Schedule schedule = bookingsByVehicle.get(booking.getVehicleUuid());
+        schedule.remove(booking.getStartTime());
+        if (schedule.size == 0) {
+            bookingsByVehicle.remove(booking.getVehicleUuid());
+        }
+        return booking;
+    }
+
+    /**
+     * Drop every booking of a vehicle, returns how many were removed
+     */
+    public int removeVehicle(String vehicleUuid) {
+        Schedule schedule = bookingsByVehicle.remove(vehicleUuid);
+        if (schedule == null) {
+            return 0;
+        }
+        for (int i = 0; i < schedule.size; i++) {
+            bookingsById.remove(schedule.bookings[i].getUuid());
+        }
+        return schedule.size;
+    }
+
+    public Booking findById(String bookingId) {
+        return bookingsById.get(bookingId);
+    }
+
+    /**
+     * Bookings of one vehicle, ordered by start time
+     */
+    public List<Booking> getBookings(String vehicleUuid) {
+        Schedule schedule = bookingsByVehicle.get(vehicleUuid);
+        return schedule == null ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(schedule.bookings).subList(0, schedule.size));
+    }
+
+    public List<Booking> getAllBookings() {
+        return new ArrayList<>(bookingsById.values());
+    }
+
+    public int size() {
+        return bookingsById.size();
+    }
+
+    /**
+     * One vehicle's bookings as parallel arrays sorted by start time (disjoint, so also by end time)
+     */
+    private static class Schedule {
+        private long[] starts = new long[4];
+        private long[] ends = new long[4];
+        private Booking[] bookings = new Booking[4];
+        private int size;
+
+        /**
+         * Index of the booking overlapping [start, end), or -1
+         */
+        int conflict(long start, long end) {
+            int candidate = lastStartBefore(end);
+            return candidate >= 0 && ends[candidate] > start ? candidate : -1;
+        }
+
+        /**
+         * Index of the last booking starting strictly before 'time', or -1
+         */
+        int lastStartBefore(long time) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (starts[middle] < time) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        void insert(Booking booking) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                bookings = Arrays.copyOf(bookings, size * 2);
+            }
+            // Bookings usually arrive in time order, so this is mostly an append
+            int position = lastStartBefore(booking.getStartTime()) + 1;
+            int moved = size - position;
+            System.arraycopy(starts, position, starts, position + 1, moved);
+            System.arraycopy(ends, position, ends, position + 1, moved);
+            System.arraycopy(bookings, position, bookings, position + 1, moved);
+            starts[position] = booking.getStartTime();
+            ends[position] = booking.getEndTime();
+            bookings[position] = booking;
+            size++;
+        }
+
+        void remove(long startTime) {
+            int position = lastStartBefore(startTime) + 1;
+            if (position >= size || starts[position] != startTime) {
+                return;
+            }
+            int moved = size - position - 1;
+            System.arraycopy(starts, position + 1, starts, position, moved);
+            System.arraycopy(ends, position + 1, ends, position, moved);
+            System.arraycopy(bookings, position + 1, bookings, position, moved);
+            size--;
+            bookings[size] = null;
+        }
+    }
+}
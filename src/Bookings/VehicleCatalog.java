@@ -0,0 +1,112 @@
+package Bookings;
+
+import Vehicles.Vehicle;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory brand -> price -> uuid index of the fleet
+ * Single Responsibility: Answer "which vehicles match this brand and price range?" without reading vehicles.json
+ * <p>
+ * Only the uuid, brand and price of each vehicle are kept - never names or whole Vehicle objects -
+ * so the catalog stays small next to the file. Brands are compared case-insensitively, like
+ * AvailabilityQuery does. A price range is one subMap() per brand.
+ * <p>
+ * No file I/O here; BookingService fills it from the repository and keeps it in sync.
+ */
+public class VehicleCatalog {
+
+    // lower-cased brand -> price -> uuids at that price
+    private final Map<String, TreeMap<Double, Set<String>>> byBrand = new HashMap<>();
+    private final Map<String, Entry> byUuid = new HashMap<>();
+
+    /**
+     * Add a vehicle, or move it if its brand or price changed
+     */
+    public void put(Vehicle vehicle) {
+        remove(vehicle.getUuid());
+        Entry entry = new Entry(brandKey(vehicle.getBrand()), vehicle.getPrice());
+        byBrand.computeIfAbsent(entry.brand, key -> new TreeMap<>())
+                .computeIfAbsent(entry.price, key -> new LinkedHashSet<>())
+                .add(vehicle.getUuid());
+        byUuid.put(vehicle.getUuid(), entry);
+    }
+
+    /**
+     * Remove a vehicle by uuid, returns false if it was not in the catalog
+     */
+    public boolean remove(String vehicleUuid) {
+        Entry entry = byUuid.remove(vehicleUuid);
+        if (entry == null) {
+            return false;
+        }
+        TreeMap<Double, Set<String>> prices = byBrand.get(entry.brand);
+        Set<String> uuids = prices.get(entry.price);
+        uuids.remove(vehicleUuid);
+        if (uuids.isEmpty()) {
+            prices.remove(entry.price);
+            if (prices.isEmpty()) {
+                byBrand.remove(entry.brand);
+            }
+        }
+        return true;
+    }
+
+    public boolean contains(String vehicleUuid) {
+        return byUuid.containsKey(vehicleUuid);
+    }
+
+    public int size() {
+        return byUuid.size();
+    }
+
+    /**
+     * Visit the uuid of every vehicle of this brand (null = any brand) priced within [minPrice, maxPrice],
+     * cheapest first within each brand
+     */
+    public void forEachMatching(String brand, double minPrice, double maxPrice, Consumer<String> action) {
+        if (minPrice > maxPrice) {
+            return;
+        }
+        if (brand != null) {
+            TreeMap<Double, Set<String>> prices = byBrand.get(brandKey(brand));
+            if (prices != null) {
+                forEachInRange(prices, minPrice, maxPrice, action);
+            }
+            return;
+        }
+        for (TreeMap<Double, Set<String>> prices : byBrand.values()) {
+            forEachInRange(prices, minPrice, maxPrice, action);
+        }
+    }
+
+    private static void forEachInRange(TreeMap<Double, Set<String>> prices, double minPrice, double maxPrice,
+                                       Consumer<String> action) {
+        for (Set<String> uuids : prices.subMap(minPrice, true, maxPrice, true).values()) {
+            uuids.forEach(action);
+        }
+    }
+
+    private static String brandKey(String brand) {
+        return brand == null ? "" : brand.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Where a vehicle sits in byBrand, so remove() can find it again
+     */
+    private static class Entry {
+        private final String brand;
+        private final double price;
+
+        private Entry(String brand, double price) {
+            this.brand = brand;
+            this.price = price;
+        }
+    }
+}
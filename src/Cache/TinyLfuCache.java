@@ -0,0 +1,165 @@
+package Cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded cache with W-TinyLFU admission (the policy used by Caffeine)
+ * Single Responsibility: Keep the hot working set in memory, nothing more
+ * <p>
+ * Entries live in three LRU segments:
+ * - window     (~1%)  : every new entry lands here first, so bursts are absorbed
+ * - probation  (~20% of main) : entries admitted from the window, seen once in main
+ * - protected  (~80% of main) : entries hit again while on probation (SLRU)
+ * <p>
+ * When the window overflows, its LRU entry only enters main if the CountMinSketch says it is
+ * used more often than the entry main would evict. One-hit wonders therefore never push out
+ * the popular vehicles.
+ * <p>
+ * All methods are synchronized; the cache is shared by every repository call.
+ */
+public class TinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final int mainMaximum;
+
+    // accessOrder = true turns LinkedHashMap into an LRU list (eldest = least recently used)
+    private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, V> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final CountMinSketch sketch;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize < 2) {
+            throw new IllegalArgumentException("Cache size must be at least 2, got: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.mainMaximum = maximumSize - windowMaximum;
+        this.protectedMaximum = mainMaximum * 80 / 100;
+        this.sketch = new CountMinSketch(maximumSize);
+    }
+
+    /**
+     * Look up a key, returns null on a miss
+     */
+    public synchronized V get(K key) {
+        sketch.increment(key);
+
+        V value = window.get(key);
+        if (value != null) {
+            hitCount++;
+            return value;
+        }
+
+        value = protectedSegment.get(key);
+        if (value != null) {
+            hitCount++;
+            return value;
+        }
+
+        value = probation.remove(key);
+        if (value != null) {
+            hitCount++;
+            promote(key, value);
+            return value;
+        }
+
+        missCount++;
+        return null;
+    }
+
+    /**
+     * Insert or replace a value
+     */
+    public synchronized void put(K key, V value) {
+        if (window.containsKey(key)) {
+            window.put(key, value);
+            return;
+        }
+        if (protectedSegment.containsKey(key)) {
+            protectedSegment.put(key, value);
+            return;
+        }
+        if (probation.remove(key) != null) {
+            promote(key, value);
+            return;
+        }
+
+        window.put(key, value);
+        if (window.size() > windowMaximum) {
+            Map.Entry<K, V> candidate = removeEldest(window);
+            admit(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    /**
+     * Drop a key (e.g. after it was updated or deleted on disk)
+     */
+    public synchronized void invalidate(K key) {
+        if (window.remove(key) == null && probation.remove(key) == null) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount, size(), maximumSize);
+    }
+
+    /**
+     * Move an entry to the protected segment, demoting protected's LRU entry to probation if full
+     */
+    private void promote(K key, V value) {
+        protectedSegment.put(key, value);
+        if (protectedSegment.size() > protectedMaximum) {
+            Map.Entry<K, V> demoted = removeEldest(protectedSegment);
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    /**
+     * TinyLFU admission: the window's victim competes with main's victim on frequency
+     */
+    private void admit(K candidateKey, V candidateValue) {
+        if (probation.size() + protectedSegment.size() < mainMaximum) {
+            probation.put(candidateKey, candidateValue);
+            return;
+        }
+
+        LinkedHashMap<K, V> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        K victimKey = victimSegment.keySet().iterator().next();
+
+        evictionCount++;
+        if (sketch.frequency(candidateKey) > sketch.frequency(victimKey)) {
+            victimSegment.remove(victimKey);
+            probation.put(candidateKey, candidateValue);
+        }
+        // otherwise the candidate is simply dropped
+    }
+
+    private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> segment) {
+        Iterator<Map.Entry<K, V>> iterator = segment.entrySet().iterator();
+        Map.Entry<K, V> eldest = iterator.next();
+        Map.Entry<K, V> copy = Map.entry(eldest.getKey(), eldest.getValue());
+        iterator.remove();
+        return copy;
+    }
+}
@@ -1,5 +1,6 @@
 package Manager;
 
+import Services.BookingService;
 import Services.VehicleInputService;
 import Services.VehicleService;
 import Vehicles.Vehicle;
@@ -16,14 +17,17 @@ public class AddVehicle {
 
     private final VehicleService vehicleService;
     private final VehicleInputService inputService;
+    private final BookingService bookingService;
 
     /**
      * Dependency Injection through constructor
      * Like Laravel: public function __construct(VehicleService $service)
      */
-    public AddVehicle(VehicleService vehicleService, VehicleInputService inputService) {
+    public AddVehicle(VehicleService vehicleService, VehicleInputService inputService,
+                      BookingService bookingService) {
         this.vehicleService = vehicleService;
         this.inputService = inputService;
+        this.bookingService = bookingService;
     }
 
     /**
@@ -37,6 +41,9 @@ public class AddVehicle {
         Vehicle vehicle = inputService.getVehicleFromUser();
 
         // Use service to add vehicle (handles validation and saving)
-        vehicleService.addVehicle(vehicle);
+        if (vehicleService.addVehicle(vehicle)) {
+            // Make it show up in availability searches
+            bookingService.vehicleSaved(vehicle);
+        }
     }
 }
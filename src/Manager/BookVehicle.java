@@ -0,0 +1,37 @@
+package Manager;
+
+import Bookings.Booking;
+import Services.BookingInputService;
+import Services.BookingService;
+import Services.ServiceResult;
+
+public class BookVehicle {
+
+    private final BookingService bookingService;
+    private final BookingInputService inputService;
+
+    public BookVehicle(BookingService bookingService, BookingInputService inputService) {
+        this.bookingService = bookingService;
+        this.inputService = inputService;
+    }
+
+    public void bookVehicle() {
+        System.out.println("\n=== Book a Vehicle ===");
+
+        Booking booking = inputService.getBookingFromUser();
+        ServiceResult result = bookingService.bookVehicle(booking);
+
+        if (result.isSuccess()) {
+            System.out.println("✓ Vehicle booked successfully!");
+            System.out.println("  Booking ID: " + booking.getUuid());
+            System.out.println("  Vehicle: " + result.getVehicle().getName());
+            System.out.println("  From: " + BookingInputService.formatDateTime(booking.getStartTime()));
+            System.out.println("  To:   " + BookingInputService.formatDateTime(booking.getEndTime()));
+        } else {
+            System.out.println("✗ Booking failed:");
+            for (String error : result.getErrors()) {
+                System.out.println("  - " + error);
+            }
+        }
+    }
+}
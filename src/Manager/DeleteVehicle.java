@@ -1,5 +1,6 @@
 package Manager;
 
+import Services.BookingService;
 import Services.VehicleInputService;
 import Services.VehicleService;
 
@@ -7,16 +8,24 @@ public class DeleteVehicle {
 
     private final VehicleService vehicleService;
     private final VehicleInputService vehicleInputService;
+    private final BookingService bookingService;
 
-    public DeleteVehicle(VehicleService vehicleService, VehicleInputService vehicleInputService) {
+    public DeleteVehicle(VehicleService vehicleService, VehicleInputService vehicleInputService,
+                         BookingService bookingService) {
         this.vehicleService = vehicleService;
         this.vehicleInputService = vehicleInputService;
+        this.bookingService = bookingService;
     }
 
     public void deleteVehicle() {
         System.out.println("\n=== Delete Vehicle ===");
 
         String vehicleId = vehicleInputService.getVehicleId();
-        vehicleService.deleteVehicleById(vehicleId);
+        if (vehicleService.deleteVehicleById(vehicleId)) {
+            int cancelled = bookingService.vehicleDeleted(vehicleId);
+            if (cancelled > 0) {
+                System.out.println("  Cancelled " + cancelled + " booking(s) for this vehicle.");
+            }
+        }
     }
 }
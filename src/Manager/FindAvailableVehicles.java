@@ -0,0 +1,43 @@
+package Manager;
+
+import Bookings.AvailabilityQuery;
+import Services.BookingInputService;
+import Services.BookingService;
+import Vehicles.Vehicle;
+
+import java.util.List;
+
+public class FindAvailableVehicles {
+
+    private final BookingService bookingService;
+    private final BookingInputService inputService;
+
+    public FindAvailableVehicles(BookingService bookingService, BookingInputService inputService) {
+        this.bookingService = bookingService;
+        this.inputService = inputService;
+    }
+
+    public void findAvailableVehicles() {
+        System.out.println("\n=== Find Available Vehicles ===");
+
+        AvailabilityQuery query = inputService.getAvailabilityQueryFromUser();
+        if (query.getEndTime() <= query.getStartTime()) {
+            System.out.println("✗ End must be after start.");
+            return;
+        }
+
+        List<Vehicle> vehicles = bookingService.findAvailableVehicles(query);
+        if (vehicles.isEmpty()) {
+            System.out.println("No vehicles available for that time.");
+            return;
+        }
+
+        System.out.println("Available vehicles: " + vehicles.size());
+        System.out.println("-------------------");
+        for (int i = 0; i < vehicles.size(); i++) {
+            Vehicle vehicle = vehicles.get(i);
+            System.out.println((i + 1) + ". [" + vehicle.getUuid() + "] " + vehicle.getName()
+                    + " (" + vehicle.getBrand() + ") $" + String.format("%.2f", vehicle.getPrice()));
+        }
+    }
+}
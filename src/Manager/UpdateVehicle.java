@@ -1,5 +1,6 @@
 package Manager;
 
+import Services.BookingService;
 import Services.VehicleInputService;
 import Services.VehicleService;
 import Vehicles.Vehicle;
@@ -8,10 +9,13 @@ public class UpdateVehicle {
 
     private final VehicleService vehicleService;
     private final VehicleInputService inputService;
+    private final BookingService bookingService;
 
-    public UpdateVehicle(VehicleService vehicleService, VehicleInputService inputService) {
+    public UpdateVehicle(VehicleService vehicleService, VehicleInputService inputService,
+                         BookingService bookingService) {
         this.vehicleService = vehicleService;
         this.inputService = inputService;
+        this.bookingService = bookingService;
     }
 
     public void updateVehicle() {
@@ -21,6 +25,9 @@ public class UpdateVehicle {
         Vehicle vehicle = inputService.getVehicleFromUserWithId();
 
         // Use service to update vehicle (handles validation and updating)
-        vehicleService.updateVehicle(vehicle);
+        if (vehicleService.updateVehicle(vehicle)) {
+            // Brand or price may have changed
+            bookingService.vehicleSaved(vehicle);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package Repository;
+
+import Bookings.Booking;
+import java.util.List;
+
+/**
+ * Storage contract for bookings, the same Repository Pattern as VehicleRepositoryInterface
+ */
+public interface BookingRepositoryInterface {
+    List<Booking> findAll();
+    boolean save(Booking booking);
+    boolean delete(String id);
+    boolean deleteByVehicle(String vehicleUuid);
+}
@@ -0,0 +1,399 @@
+package Repository;
+
+import Cache.CacheStats;
+import Cache.TinyLfuCache;
+import Vehicles.Vehicle;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Bounded-memory implementation of VehicleRepositoryInterface
+ * Single Responsibility: Serve vehicles from a huge JSON file without loading the whole fleet
+ * <p>
+ * Works on the same vehicles.json format as JsonVehicleRepository, but:
+ * - findById() checks a W-TinyLFU cache of hot vehicles first (size given in the constructor)
+ * - on a miss, VehicleOffsetIndex tells us where the object lives and only those bytes are parsed
+ * - save() appends to the end of the array instead of rewriting the file
+ * - update()/delete() stream the file through Gson one vehicle at a time
+ * <p>
+ * findAll() still has to build a full list (that is the interface contract);
+ * prefer forEach() and count() for fleet-wide work.
+ */
+public class BoundedVehicleRepository implements VehicleRepositoryInterface {
+
+    private final File file;
+    private final Gson gson;
+    private final TinyLfuCache<String, Vehicle> cache;
+    private final VehicleOffsetIndex index;
+
+    public BoundedVehicleRepository(String filePath, int cacheSize) {
+        this.file = new File(filePath);
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.cache = new TinyLfuCache<>(cacheSize);
+        this.index = new VehicleOffsetIndex(file);
+
+        try {
+            if (!file.exists()) {
+                File parentDir = file.getParentFile();
+                if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+                    System.err.println("Warning: Could not create parent directories for: " + filePath);
+                }
+                try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                    writer.write("[]");
+                }
+            }
+            index.open();
+        } catch (IOException e) {
+            System.err.println("Warning: Could not open vehicles index: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public List<Vehicle> findAll() {
+        List<Vehicle> vehicles = new ArrayList<>();
+        forEach(vehicles::add);
+        return vehicles;
+    }
+
+    /**
+     * Stream every vehicle without materialising the list
+     */
+    @Override
+    public synchronized void forEach(Consumer<Vehicle> action) {
+        if (file.length() == 0) {
+            return;
+        }
+        try (JsonReader reader = gson.newJsonReader(new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)))) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                action.accept(gson.fromJson(reader, Vehicle.class));
+            }
+            reader.endArray();
+        } catch (Exception e) {
+            System.err.println("Error reading vehicles: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized int count() {
+        checkIndex();
+        return index.size();
+    }
+
+    @Override
+    public synchronized Vehicle findById(String id) {
+        // Same answer as JsonVehicleRepository; the cache can't hash a null key
+        if (id == null) {
+            return null;
+        }
+        checkIndex();
+        // The cache only ever hands out copies: callers may mutate what they get back
+        Vehicle cached = cache.get(id);
+        if (cached != null) {
+            return cached.copy();
+        }
+
+        try {
+            long[] location = index.find(id);
+            if (location == null) {
+                return null;
+            }
+            Vehicle vehicle = gson.fromJson(readRange(location[0], (int) location[1]), Vehicle.class);
+            cache.put(id, vehicle);
+            return vehicle.copy();
+        } catch (Exception e) {
+            System.err.println("Error reading vehicle: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * One batch of offset-index lookups and ranged reads instead of streaming the whole file
+     * Bypasses the cache on purpose, so one big search doesn't flush the hot vehicles out of it
+     */
+    @Override
+    public synchronized List<Vehicle> findAllById(Collection<String> ids) {
+        checkIndex();
+        List<Vehicle> vehicles = new ArrayList<>(ids.size());
+        try {
+            Map<String, Vehicle> found = new HashMap<>();
+            List<String> wanted = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                if (id != null) {
+                    wanted.add(id);
+                }
+            }
+
+            Map<String, long[]> locations = index.findAll(wanted);
+            try (RandomAccessFile data = new RandomAccessFile(file, "r")) {
+                for (Map.Entry<String, long[]> location : locations.entrySet()) {
+                    byte[] bytes = new byte[(int) location.getValue()[1]];
+                    data.seek(location.getValue()[0]);
+                    data.readFully(bytes);
+                    found.put(location.getKey(), gson.fromJson(new String(bytes, StandardCharsets.UTF_8), Vehicle.class));
+                }
+            }
+
+            for (String id : ids) {
+                Vehicle vehicle = found.get(id);
+                if (vehicle != null) {
+                    vehicles.add(vehicle);
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Error reading vehicles: " + e.getMessage());
+        }
+        return vehicles;
+    }
+
+    @Override
+    public synchronized boolean save(Vehicle vehicle) {
+        checkIndex();
+        try {
+            append(Collections.singletonList(vehicle));
+            cache.put(vehicle.getUuid(), vehicle.copy());
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error saving vehicle: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized boolean update(Vehicle vehicle) {
+        checkIndex();
+        try {
+            if (rewrite(Collections.singletonMap(vehicle.getUuid(), vehicle), Collections.emptyList()) > 0) {
+                cache.invalidate(vehicle.getUuid());
+                return true;
+            }
+            System.err.println("Vehicle with ID " + vehicle.getUuid() + " not found.");
+        } catch (Exception e) {
+            System.err.println("Error updating vehicle: " + e.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized boolean delete(String id) {
+        checkIndex();
+        try {
+            if (rewrite(Collections.singletonMap(id, null), Collections.emptyList()) > 0) {
+                cache.invalidate(id);
+                return true;
+            }
+            System.err.println("Vehicle with ID " + id + " not found.");
+        } catch (Exception e) {
+            System.err.println("Error deleting vehicle: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Group commit: decide every outcome first, then touch the file once
+     * - only saves   -> one append at the end of the array
+     * - anything else -> one streaming rewrite, with new vehicles appended at the end
+     * A write whose planning fails is marked FAILED on its own; only a failed file write fails the whole group.
+     */
+    @Override
+    public synchronized List<VehicleWrite.Outcome> applyAll(List<VehicleWrite> writes) {
+        checkIndex();
+        List<VehicleWrite.Outcome> outcomes = new ArrayList<>();
+        // uuid -> replacement for vehicles already on disk (null = delete)
+        Map<String, Vehicle> changes = new HashMap<>();
+        Map<String, Vehicle> additions = new LinkedHashMap<>();
+        for (VehicleWrite write : writes) {
+            try {
+                outcomes.add(plan(write, changes, additions));
+            } catch (Exception e) {
+                System.err.println("Error writing vehicle " + write.getId() + ": " + e.getMessage());
+                outcomes.add(VehicleWrite.Outcome.FAILED);
+            }
+        }
+
+        try {
+            if (!changes.isEmpty()) {
+                rewrite(changes, additions.values());
+            } else if (!additions.isEmpty()) {
+                append(additions.values());
+            }
+        } catch (Exception e) {
+            System.err.println("Error writing vehicles: " + e.getMessage());
+            for (int i = 0; i < outcomes.size(); i++) {
+                if (outcomes.get(i) == VehicleWrite.Outcome.APPLIED) {
+                    outcomes.set(i, VehicleWrite.Outcome.FAILED);
+                }
+            }
+            return outcomes;
+        } finally {
+            for (String id : changes.keySet()) {
+                cache.invalidate(id);
+            }
+        }
+
+        for (Vehicle vehicle : additions.values()) {
+            cache.put(vehicle.getUuid(), vehicle.copy());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Decide the outcome of one write and record it in changes/additions; nothing is written yet
+     */
+    private VehicleWrite.Outcome plan(VehicleWrite write, Map<String, Vehicle> changes,
+                                      Map<String, Vehicle> additions) throws IOException {
+        String id = write.getId();
+        if (id == null) {
+            return VehicleWrite.Outcome.NOT_FOUND;
+        }
+        boolean onDisk = changes.containsKey(id) ? changes.get(id) != null : index.find(id) != null;
+
+        if (write.getType() == VehicleWrite.Type.SAVE) {
+            if (onDisk || additions.containsKey(id)) {
+                return VehicleWrite.Outcome.CONFLICT;
+            }
+            // Own copy: a later UPDATE in the batch must not mutate the SAVE caller's object
+            additions.put(id, write.getVehicle().copy());
+        } else if (additions.containsKey(id)) {
+            if (write.getType() == VehicleWrite.Type.UPDATE) {
+                Vehicle added = additions.get(id);
+                added.setName(write.getVehicle().getName());
+                added.setBrand(write.getVehicle().getBrand());
+                added.setPrice(write.getVehicle().getPrice());
+            } else {
+                additions.remove(id);
+            }
+        } else if (!onDisk) {
+            return VehicleWrite.Outcome.NOT_FOUND;
+        } else {
+            changes.put(id, write.getType() == VehicleWrite.Type.UPDATE ? write.getVehicle() : null);
+        }
+        return VehicleWrite.Outcome.APPLIED;
+    }
+
+    /**
+     * Pick up changes made to the file by anyone else (another repository, another process)
+     * The cached vehicles can't be trusted after that, so they are dropped too
+     */
+    private void checkIndex() {
+        try {
+            if (index.refresh()) {
+                cache.invalidateAll();
+            }
+        } catch (IOException e) {
+            System.err.println("Warning: Could not refresh vehicles index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hit/miss/eviction counters, used to size the cache
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * Append vehicles before the closing ']' of the JSON array, in one write
+     * Output matches Gson pretty printing, so the file stays identical to what JsonVehicleRepository writes
+     */
+    private void append(Collection<Vehicle> vehicles) throws IOException {
+        String elements = JsonArrayAppender.render(gson, vehicles, Vehicle.class);
+        byte[] elementBytes = elements.getBytes(StandardCharsets.UTF_8);
+        boolean fits = index.hasRoomFor(vehicles.size());
+        long base = JsonArrayAppender.append(file, elements);
+
+        // Index header records the new file length/mtime, so it must run after the file is closed
+        if (!fits) {
+            // The table has to grow anyway: one rescan picks up the whole batch
+            index.rebuild();
+            return;
+        }
+        int objectStart = -1;
+        int depth = 0;
+        boolean inString = false;
+        Iterator<Vehicle> iterator = vehicles.iterator();
+        for (int i = 0; i < elementBytes.length; i++) {
+            byte b = elementBytes[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' && depth++ == 0) {
+                objectStart = i;
+            } else if (b == '}' && --depth == 0) {
+                if (index.add(iterator.next().getUuid(), base + objectStart, i - objectStart + 1)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy the file one vehicle at a time, replacing the changed uuids (null replacement = drop it)
+     * and appending the additions at the end
+     * Returns how many changed uuids were found; if none were and nothing is added, the file is left untouched
+     */
+    private int rewrite(Map<String, Vehicle> changes, Collection<Vehicle> additions) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        Set<String> found = new HashSet<>();
+
+        try (JsonReader reader = gson.newJsonReader(new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)));
+             JsonWriter writer = gson.newJsonWriter(new BufferedWriter(
+                     new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8)))) {
+            reader.beginArray();
+            writer.beginArray();
+            while (reader.hasNext()) {
+                Vehicle vehicle = gson.fromJson(reader, Vehicle.class);
+                if (changes.containsKey(vehicle.getUuid()) && found.add(vehicle.getUuid())) {
+                    Vehicle replacement = changes.get(vehicle.getUuid());
+                    if (replacement == null) {
+                        continue;
+                    }
+                    // update fields, keep the stored uuid
+                    vehicle.setName(replacement.getName());
+                    vehicle.setBrand(replacement.getBrand());
+                    vehicle.setPrice(replacement.getPrice());
+                }
+                gson.toJson(vehicle, Vehicle.class, writer);
+            }
+            for (Vehicle vehicle : additions) {
+                gson.toJson(vehicle, Vehicle.class, writer);
+            }
+            reader.endArray();
+            writer.endArray();
+        }
+
+        if (found.isEmpty() && additions.isEmpty()) {
+            Files.deleteIfExists(temp.toPath());
+            return 0;
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        // Offsets after the changed vehicle have shifted
+        index.rebuild();
+        return found.size();
+    }
+
+    private String readRange(long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        try (RandomAccessFile data = new RandomAccessFile(file, "r")) {
+            data.seek(offset);
+            data.readFully(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package Repository;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Appends elements to a pretty-printed JSON array file without rewriting it
+ * Single Responsibility: Turn "add one more item" into a write at the end of the file
+ * <p>
+ * Output matches Gson pretty printing, so the file stays identical to what
+ * gson.toJson(list, writer) would have written.
+ */
+class JsonArrayAppender {
+
+    private JsonArrayAppender() {
+    }
+
+    /**
+     * Render items as array elements ("\n  {...},\n  {...}") using the array's indentation
+     */
+    static <T> String render(Gson gson, Collection<T> items, Class<T> type) throws IOException {
+        StringWriter buffer = new StringWriter();
+        try (JsonWriter writer = gson.newJsonWriter(buffer)) {
+            writer.beginArray();
+            for (T item : items) {
+                gson.toJson(item, type, writer);
+            }
+            writer.endArray();
+        }
+        String rendered = buffer.toString();
+        return rendered.substring(1, rendered.lastIndexOf(']')).replaceAll("\\s+$", "");
+    }
+
+    /**
+     * Write rendered elements before the closing ']' in one write
+     * Returns the byte offset where the elements start in the file
+     */
+    static long append(File file, String elements) throws IOException {
+        byte[] elementBytes = elements.getBytes(StandardCharsets.UTF_8);
+        try (RandomAccessFile data = new RandomAccessFile(file, "rw")) {
+            long closing = lastNonWhitespace(data, data.length());
+            long start;
+            String prefix;
+            if (closing < 0) {
+                // Empty file: treated as an empty array, like findAll() does
+                start = 0;
+                prefix = "[";
+            } else {
+                long previous = lastNonWhitespace(data, closing);
+                if (previous < 0 || readByte(data, closing) != ']') {
+                    throw new IOException("File is not a JSON array: " + file.getPath());
+                }
+                // Overwrite from just after the last element (or '['), dropping the old "\n]"
+                start = previous + 1;
+                prefix = readByte(data, previous) == '[' ? "" : ",";
+            }
+
+            byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            data.seek(start);
+            data.write(prefixBytes);
+            data.write(elementBytes);
+            data.write("\n]".getBytes(StandardCharsets.UTF_8));
+            data.setLength(data.getFilePointer());
+            return start + prefixBytes.length;
+        }
+    }
+
+    /**
+     * Position of the last non-whitespace byte before 'end', or -1
+     */
+    private static long lastNonWhitespace(RandomAccessFile data, long end) throws IOException {
+        for (long position = end - 1; position >= 0; position--) {
+            if (!Character.isWhitespace(readByte(data, position))) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static int readByte(RandomAccessFile data, long position) throws IOException {
+        data.seek(position);
+        return data.read();
+    }
+}
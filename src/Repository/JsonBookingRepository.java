@@ -0,0 +1,119 @@
+package Repository;
+
+import Bookings.Booking;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Stores bookings in a JSON file next to vehicles.json (e.g. src/bookings.json)
+ * Single Responsibility: Handle bookings JSON file operations, nothing else
+ * <p>
+ * Conflict checks are NOT done here - BookingService checks the BookingCalendar before saving.
+ * save() appends to the file; delete() and deleteByVehicle() still rewrite the whole file.
+ */
+public class JsonBookingRepository implements BookingRepositoryInterface {
+
+    private final String filePath;
+    private final Gson gson;
+
+    public JsonBookingRepository(String filePath) {
+        this.filePath = filePath;
+        // Check if a file exists, if not, create it with empty array
+        File file = new File(filePath);
+        if (!file.exists()) {
+            try {
+                File parentDir = file.getParentFile();
+                if (parentDir != null && !parentDir.exists()) {
+                    if (!parentDir.mkdirs()) {
+                        System.err.println("Warning: Could not create parent directories for: " + filePath);
+                    }
+                }
+                if (file.createNewFile()) {
+                    try (Writer writer = new FileWriter(file)) {
+                        writer.write("[]");
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Warning: Could not create bookings file: " + e.getMessage());
+            }
+        }
+        this.gson = new GsonBuilder().setPrettyPrinting().create();
+    }
+
+    @Override
+    public List<Booking> findAll() {
+        try {
+            File file = new File(filePath);
+            if (!file.exists() || file.length() == 0) {
+                return new ArrayList<>();
+            }
+
+            try (Reader reader = new BufferedReader(new FileReader(file))) {
+                Type bookingListType = new TypeToken<ArrayList<Booking>>() {
+                }.getType();
+                List<Booking> bookings = gson.fromJson(reader, bookingListType);
+                return bookings != null ? bookings : new ArrayList<>();
+            }
+        } catch (Exception e) {
+            System.err.println("Error reading bookings: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Appends in place instead of rewriting the file, so a booking costs O(1) I/O however many exist
+     */
+    @Override
+    public boolean save(Booking booking) {
+        try {
+            String element = JsonArrayAppender.render(gson, Collections.singletonList(booking), Booking.class);
+            JsonArrayAppender.append(new File(filePath), element);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error saving booking: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(String id) {
+        try {
+            List<Booking> bookings = findAll();
+            if (bookings.removeIf(booking -> booking.getUuid().equals(id))) {
+                writeToFile(bookings);
+                return true;
+            }
+            System.err.println("Booking with ID " + id + " not found.");
+        } catch (Exception e) {
+            System.err.println("Error deleting booking: " + e.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public boolean deleteByVehicle(String vehicleUuid) {
+        try {
+            List<Booking> bookings = findAll();
+            if (bookings.removeIf(booking -> booking.getVehicleUuid().equals(vehicleUuid))) {
+                writeToFile(bookings);
+            }
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error deleting bookings: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeToFile(List<Booking> bookings) throws IOException {
+        try (Writer writer = new BufferedWriter(new FileWriter(filePath))) {
+            gson.toJson(bookings, writer);
+        }
+    }
+}
@@ -8,7 +8,9 @@ import com.google.gson.reflect.TypeToken;
 import java.io.*;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Concrete implementation of VehicleRepositoryInterface
@@ -146,6 +148,69 @@ public class JsonVehicleRepository implements VehicleRepositoryInterface {
         return false;
     }
 
+    /**
+     * Group commit: read the file once, apply every write in memory, write the file once
+     * Much cheaper than calling save()/update()/delete() in a loop, which rewrites the file each time
+     */
+    @Override
+    public List<VehicleWrite.Outcome> applyAll(List<VehicleWrite> writes) {
+        List<VehicleWrite.Outcome> outcomes = new ArrayList<>();
+        List<Vehicle> vehicles = findAll();
+        // uuid -> position in the list, deleted vehicles are set to null and dropped before writing
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < vehicles.size(); i++) {
+            positions.putIfAbsent(vehicles.get(i).getUuid(), i);
+        }
+
+        boolean changed = false;
+        for (VehicleWrite write : writes) {
+            // A bad write only fails itself, never the other callers in the group
+            try {
+                Integer position = positions.get(write.getId());
+                if (write.getType() == VehicleWrite.Type.SAVE) {
+                    if (position != null) {
+                        outcomes.add(VehicleWrite.Outcome.CONFLICT);
+                        continue;
+                    }
+                    // Own copy: a later UPDATE in the batch must not mutate the SAVE caller's object
+                    vehicles.add(write.getVehicle().copy());
+                    positions.put(write.getId(), vehicles.size() - 1);
+                } else if (position == null) {
+                    outcomes.add(VehicleWrite.Outcome.NOT_FOUND);
+                    continue;
+                } else if (write.getType() == VehicleWrite.Type.UPDATE) {
+                    Vehicle vehicleData = vehicles.get(position);
+                    vehicleData.setName(write.getVehicle().getName());
+                    vehicleData.setBrand(write.getVehicle().getBrand());
+                    vehicleData.setPrice(write.getVehicle().getPrice());
+                } else {
+                    vehicles.set(position, null);
+                    positions.remove(write.getId());
+                }
+                outcomes.add(VehicleWrite.Outcome.APPLIED);
+                changed = true;
+            } catch (Exception e) {
+                System.err.println("Error writing vehicle " + write.getId() + ": " + e.getMessage());
+                outcomes.add(VehicleWrite.Outcome.FAILED);
+            }
+        }
+
+        if (changed) {
+            try {
+                vehicles.removeIf(vehicle -> vehicle == null);
+                writeToFile(vehicles);
+            } catch (Exception e) {
+                System.err.println("Error writing vehicles: " + e.getMessage());
+                for (int i = 0; i < outcomes.size(); i++) {
+                    if (outcomes.get(i) == VehicleWrite.Outcome.APPLIED) {
+                        outcomes.set(i, VehicleWrite.Outcome.FAILED);
+                    }
+                }
+            }
+        }
+        return outcomes;
+    }
+
     /**
      * Write vehicles to JSON file using Gson
      * One line instead of 100+ lines of manual string building!
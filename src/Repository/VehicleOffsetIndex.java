@@ -0,0 +1,339 @@
+package Repository;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * On-disk uuid -> (offset, length) index for a vehicles JSON file
+ * Single Responsibility: Find where a vehicle object lives inside the JSON file without loading it
+ * <p>
+ * The index file is an open-addressing hash table stored next to the data file:
+ * <pre>
+ *   header : magic(int) version(int) dataLength(long) dataLastModified(long) capacity(int) size(int)
+ *   slots  : hash(long) offset(long) length(int)   -- length 0 means "empty slot"
+ * </pre>
+ * Lookups seek straight to the slot on disk, so memory use does not grow with the fleet.
+ * The header remembers the data file's length and modification time. open() and refresh()
+ * compare them with the file; if either changed behind our back (e.g. JsonVehicleRepository
+ * wrote the file) the index is rebuilt from scratch.
+ */
+class VehicleOffsetIndex {
+
+    private static final int MAGIC = 0x56494458; // "VIDX"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+    private static final int SLOT_SIZE = 8 + 8 + 4;
+    private static final long SIZE_POSITION = HEADER_SIZE - 4;
+
+    private final File dataFile;
+    private final File indexFile;
+    private int capacity;
+    private int size;
+    // Data file state the index currently describes
+    private long indexedDataLength = -1;
+    private long indexedDataLastModified = -1;
+
+    VehicleOffsetIndex(File dataFile) {
+        this.dataFile = dataFile;
+        this.indexFile = new File(dataFile.getPath() + ".idx");
+    }
+
+    /**
+     * Make sure the index matches the data file, rebuilding it if it is missing or stale
+     */
+    void open() throws IOException {
+        if (indexFile.exists() && readHeader()) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Rebuild if the data file was changed by someone else since we last indexed it
+     * Returns true if a rebuild happened (cached vehicles may be stale too)
+     */
+    boolean refresh() throws IOException {
+        if (dataFile.length() == indexedDataLength && dataFile.lastModified() == indexedDataLastModified) {
+            return false;
+        }
+        rebuild();
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns {offset, length} of the JSON object for this uuid, or null if unknown
+     */
+    long[] find(String uuid) throws IOException {
+        return findAll(Collections.singletonList(uuid)).get(uuid);
+    }
+
+    /**
+     * {offset, length} for each known uuid, opening the files once for the whole batch
+     */
+    Map<String, long[]> findAll(Collection<String> uuids) throws IOException {
+        Map<String, long[]> locations = new HashMap<>();
+        if (capacity == 0 || uuids.isEmpty()) {
+            return locations;
+        }
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "r");
+             RandomAccessFile data = new RandomAccessFile(dataFile, "r")) {
+            for (String uuid : uuids) {
+                long[] location = probe(index, data, uuid);
+                if (location != null) {
+                    locations.put(uuid, location);
+                }
+            }
+        }
+        return locations;
+    }
+
+    private long[] probe(RandomAccessFile index, RandomAccessFile data, String uuid) throws IOException {
+        long hash = hash(uuid);
+        int mask = capacity - 1;
+        // One read per slot: RandomAccessFile.readLong() would issue a read per byte
+        byte[] slotBytes = new byte[SLOT_SIZE];
+        ByteBuffer slotBuffer = ByteBuffer.wrap(slotBytes);
+        for (int slot = (int) (hash & mask), probes = 0; probes < capacity; slot = (slot + 1) & mask, probes++) {
+            index.seek(HEADER_SIZE + (long) slot * SLOT_SIZE);
+            index.readFully(slotBytes);
+            long slotHash = slotBuffer.getLong(0);
+            long offset = slotBuffer.getLong(8);
+            int length = slotBuffer.getInt(16);
+            if (length == 0) {
+                return null;
+            }
+            // Different uuids may share a 64-bit hash, so confirm against the data itself
+            if (slotHash == hash && uuid.equals(readUuid(data, offset, length))) {
+                return new long[]{offset, length};
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether 'count' more objects fit without going over 75% load
+     * Callers appending a batch check this first and rebuild once instead of adding one by one
+     */
+    boolean hasRoomFor(int count) {
+        return (size + (long) count) * 4L <= capacity * 3L;
+    }
+
+    /**
+     * Register an object that was just appended to the data file
+     * The caller must have called refresh() before appending, so only our own append is new
+     * Falls back to a full rebuild when the table gets too full; returns true if it did,
+     * in which case everything appended so far is already indexed and the caller must stop adding
+     */
+    boolean add(String uuid, long offset, int length) throws IOException {
+        if (!hasRoomFor(1)) {
+            rebuild();
+            return true;
+        }
+        long hash = hash(uuid);
+        try (RandomAccessFile index = new RandomAccessFile(indexFile, "rw")) {
+            int mask = capacity - 1;
+            int slot = (int) (hash & mask);
+            while (true) {
+                index.seek(HEADER_SIZE + (long) slot * SLOT_SIZE + 16);
+                if (index.readInt() == 0) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            index.seek(HEADER_SIZE + (long) slot * SLOT_SIZE);
+            index.writeLong(hash);
+            index.writeLong(offset);
+            index.writeInt(length);
+
+            size++;
+            indexedDataLength = dataFile.length();
+            indexedDataLastModified = dataFile.lastModified();
+            index.seek(8);
+            index.writeLong(indexedDataLength);
+            index.writeLong(indexedDataLastModified);
+            index.seek(SIZE_POSITION);
+            index.writeInt(size);
+        }
+        return false;
+    }
+
+    /**
+     * Scan the whole data file once and write a fresh index
+     * Only the compact slot arrays are held in memory, never the Vehicle objects
+     */
+    void rebuild() throws IOException {
+        Entries entries = scan();
+
+        int newCapacity = Integer.highestOneBit(Math.max(16, entries.count * 2 - 1) << 1);
+        long[] hashes = new long[newCapacity];
+        long[] offsets = new long[newCapacity];
+        int[] lengths = new int[newCapacity];
+        int mask = newCapacity - 1;
+        for (int i = 0; i < entries.count; i++) {
+            int slot = (int) (entries.hashes[i] & mask);
+            while (lengths[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = entries.hashes[i];
+            offsets[slot] = entries.offsets[i];
+            lengths[slot] = entries.lengths[i];
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(indexFile), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(entries.dataLength);
+            out.writeLong(entries.dataLastModified);
+            out.writeInt(newCapacity);
+            out.writeInt(entries.count);
+            for (int slot = 0; slot < newCapacity; slot++) {
+                out.writeLong(hashes[slot]);
+                out.writeLong(offsets[slot]);
+                out.writeInt(lengths[slot]);
+            }
+        }
+
+        this.capacity = newCapacity;
+        this.size = entries.count;
+        this.indexedDataLength = entries.dataLength;
+        this.indexedDataLastModified = entries.dataLastModified;
+    }
+
+    private boolean readHeader() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return false;
+            }
+            long dataLength = in.readLong();
+            long dataLastModified = in.readLong();
+            if (dataLength != dataFile.length() || dataLastModified != dataFile.lastModified()) {
+                return false;
+            }
+            this.capacity = in.readInt();
+            this.size = in.readInt();
+            this.indexedDataLength = dataLength;
+            this.indexedDataLastModified = dataLastModified;
+            return true;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Find the byte range of every top-level object in the JSON array
+     * A tiny state machine over raw bytes: structural characters are ASCII, so this is safe for UTF-8
+     */
+    private Entries scan() throws IOException {
+        Entries entries = new Entries();
+        entries.dataLength = dataFile.length();
+        entries.dataLastModified = dataFile.lastModified();
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(dataFile), 1 << 16)) {
+            ByteArrayOutputStream current = new ByteArrayOutputStream();
+            long position = -1;
+            long start = 0;
+            int depth = 0;
+            boolean inString = false;
+            boolean escaped = false;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (depth >= 2) {
+                    current.write(b);
+                }
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (b == '"') {
+                    inString = true;
+                } else if (b == '[' || b == '{') {
+                    depth++;
+                    if (depth == 2 && b == '{') {
+                        start = position;
+                        current.reset();
+                        current.write(b);
+                    }
+                } else if (b == ']' || b == '}') {
+                    depth--;
+                    if (depth == 1 && b == '}') {
+                        String json = current.toString(StandardCharsets.UTF_8);
+                        String uuid = uuidOf(json);
+                        if (uuid != null) {
+                            entries.add(hash(uuid), start, (int) (position - start + 1));
+                        }
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String readUuid(RandomAccessFile data, long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        data.seek(offset);
+        data.readFully(bytes);
+        return uuidOf(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static String uuidOf(String json) {
+        JsonElement uuid = JsonParser.parseString(json).getAsJsonObject().get("uuid");
+        return uuid == null || uuid.isJsonNull() ? null : uuid.getAsString();
+    }
+
+    /**
+     * 64-bit FNV-1a over the uuid's characters
+     */
+    private static long hash(String uuid) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < uuid.length(); i++) {
+            hash ^= uuid.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Growable parallel arrays collected while scanning
+     */
+    private static class Entries {
+        long dataLength;
+        long dataLastModified;
+        int count;
+        long[] hashes = new long[1024];
+        long[] offsets = new long[1024];
+        int[] lengths = new int[1024];
+
+        void add(long hash, long offset, int length) {
+            if (count == hashes.length) {
+                hashes = Arrays.copyOf(hashes, count * 2);
+                offsets = Arrays.copyOf(offsets, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+            }
+            hashes[count] = hash;
+            offsets[count] = offset;
+            lengths[count] = length;
+            count++;
+        }
+    }
+}
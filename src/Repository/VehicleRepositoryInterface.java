@@ -1,7 +1,14 @@
 package Repository;
 
 import Vehicles.Vehicle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface Segregation & Dependency Inversion Principles
@@ -14,5 +21,64 @@ public interface VehicleRepositoryInterface {
     boolean save(Vehicle vehicle);
     boolean update(Vehicle vehicle);
     boolean delete(String id);
+
+    /**
+     * Visit every vehicle; implementations that can stream should override this
+     * so callers don't need the whole fleet in memory
+     */
+    default void forEach(Consumer<Vehicle> action) {
+        findAll().forEach(action);
+    }
+
+    default int count() {
+        return findAll().size();
+    }
+
+    /**
+     * Load several vehicles at once, in the order of 'ids'; unknown ids are skipped
+     * The default makes one pass over forEach(); implementations with random access should override it
+     */
+    default List<Vehicle> findAllById(Collection<String> ids) {
+        Set<String> wanted = new HashSet<>(ids);
+        Map<String, Vehicle> found = new HashMap<>();
+        forEach(vehicle -> {
+            if (wanted.contains(vehicle.getUuid())) {
+                found.put(vehicle.getUuid(), vehicle);
+            }
+        });
+        List<Vehicle> vehicles = new ArrayList<>(found.size());
+        for (String id : ids) {
+            Vehicle vehicle = found.get(id);
+            if (vehicle != null) {
+                vehicles.add(vehicle);
+            }
+        }
+        return vehicles;
+    }
+
+    /**
+     * Apply several writes in order and return one outcome per write
+     * The default runs them one by one; file-based implementations override it to write the file once
+     */
+    default List<VehicleWrite.Outcome> applyAll(List<VehicleWrite> writes) {
+        List<VehicleWrite.Outcome> outcomes = new ArrayList<>();
+        for (VehicleWrite write : writes) {
+            boolean exists = findById(write.getId()) != null;
+            switch (write.getType()) {
+                case SAVE:
+                    outcomes.add(exists ? VehicleWrite.Outcome.CONFLICT
+                            : save(write.getVehicle()) ? VehicleWrite.Outcome.APPLIED : VehicleWrite.Outcome.FAILED);
+                    break;
+                case UPDATE:
+                    outcomes.add(!exists ? VehicleWrite.Outcome.NOT_FOUND
+                            : update(write.getVehicle()) ? VehicleWrite.Outcome.APPLIED : VehicleWrite.Outcome.FAILED);
+                    break;
+                default:
+                    outcomes.add(!exists ? VehicleWrite.Outcome.NOT_FOUND
+                            : delete(write.getId()) ? VehicleWrite.Outcome.APPLIED : VehicleWrite.Outcome.FAILED);
+            }
+        }
+        return outcomes;
+    }
 }
 
@@ -0,0 +1,60 @@
+package Repository;
+
+import Vehicles.Vehicle;
+
+/**
+ * One pending write (save, update or delete) for VehicleRepositoryInterface.applyAll()
+ * Lets callers hand several writes to the repository so they hit the disk in a single flush
+ * <p>
+ * Think of this like one statement inside a Laravel DB::transaction()
+ */
+public class VehicleWrite {
+
+    public enum Type {
+        SAVE, UPDATE, DELETE
+    }
+
+    /**
+     * What happened to a single write inside a batch
+     */
+    public enum Outcome {
+        APPLIED, NOT_FOUND, CONFLICT, FAILED
+    }
+
+    private final Type type;
+    private final String id;
+    private final Vehicle vehicle;
+
+    private VehicleWrite(Type type, String id, Vehicle vehicle) {
+        this.type = type;
+        this.id = id;
+        this.vehicle = vehicle;
+    }
+
+    public static VehicleWrite save(Vehicle vehicle) {
+        return new VehicleWrite(Type.SAVE, vehicle.getUuid(), vehicle);
+    }
+
+    public static VehicleWrite update(Vehicle vehicle) {
+        return new VehicleWrite(Type.UPDATE, vehicle.getUuid(), vehicle);
+    }
+
+    public static VehicleWrite delete(String id) {
+        return new VehicleWrite(Type.DELETE, id, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The vehicle to save/update, null for deletes
+     */
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+}
@@ -1,11 +1,19 @@
 import Manager.AddVehicle;
+import Manager.BookVehicle;
 import Manager.DeleteVehicle;
+import Manager.FindAvailableVehicles;
 import Manager.ListAllVehicle;
 import Manager.UpdateVehicle;
+import Repository.BookingRepositoryInterface;
+import Repository.BoundedVehicleRepository;
+import Repository.JsonBookingRepository;
 import Repository.JsonVehicleRepository;
 import Repository.VehicleRepositoryInterface;
+import Services.BookingInputService;
+import Services.BookingService;
 import Services.VehicleInputService;
 import Services.VehicleService;
+import Validators.BookingValidator;
 import Validators.VehicleValidator;
 
 import java.util.Scanner;
@@ -24,10 +32,15 @@ public class ScanData {
     private final VehicleValidator validator;
     private final VehicleService vehicleService;
     private final VehicleInputService inputService;
+    private final BookingRepositoryInterface bookingRepository;
+    private final BookingService bookingService;
+    private final BookingInputService bookingInputService;
     private final AddVehicle addVehicle;
     private final ListAllVehicle listAllVehicle;
     private final UpdateVehicle updateVehicle;
     private final DeleteVehicle deleteVehicle;
+    private final BookVehicle bookVehicle;
+    private final FindAvailableVehicles findAvailableVehicles;
 
     /**
      * Constructor - Bootstrap all dependencies
@@ -35,16 +48,25 @@ public class ScanData {
      */
     public ScanData() {
         // Create dependencies (bottom-up)
-        this.repository = new JsonVehicleRepository("src/vehicles.json");
+        // -Dvehicles.cacheSize=N switches to bounded-memory mode: only N hot vehicles stay in memory
+        int cacheSize = Integer.getInteger("vehicles.cacheSize", 0);
+        this.repository = cacheSize > 0
+                ? new BoundedVehicleRepository("src/vehicles.json", cacheSize)
+                : new JsonVehicleRepository("src/vehicles.json");
         this.validator = new VehicleValidator();
         this.vehicleService = new VehicleService(repository, validator);
         this.inputService = new VehicleInputService(scanner);
+        this.bookingRepository = new JsonBookingRepository("src/bookings.json");
+        this.bookingService = new BookingService(bookingRepository, repository, new BookingValidator());
+        this.bookingInputService = new BookingInputService(scanner);
 
         // Create controllers/managers
-        this.addVehicle = new AddVehicle(vehicleService, inputService);
+        this.addVehicle = new AddVehicle(vehicleService, inputService, bookingService);
         this.listAllVehicle = new ListAllVehicle(vehicleService);
-        this.updateVehicle = new UpdateVehicle(vehicleService, inputService);
-        this.deleteVehicle = new DeleteVehicle(vehicleService, inputService);
+        this.updateVehicle = new UpdateVehicle(vehicleService, inputService, bookingService);
+        this.deleteVehicle = new DeleteVehicle(vehicleService, inputService, bookingService);
+        this.bookVehicle = new BookVehicle(bookingService, bookingInputService);
+        this.findAvailableVehicles = new FindAvailableVehicles(bookingService, bookingInputService);
     }
 
     public void start() {
@@ -71,16 +93,34 @@ public class ScanData {
                     System.out.println("Updating a vehicle...");
                     updateVehicle.updateVehicle();
                     break;
+                case 5:
+                    System.out.println("Booking a vehicle...");
+                    bookVehicle.bookVehicle();
+                    break;
+                case 6:
+                    System.out.println("Searching available vehicles...");
+                    findAvailableVehicles.findAvailableVehicles();
+                    break;
                 default:
                     System.out.println("Invalid option. Please try again.");
             }
 
-            if (choice == 5 || choice < 1 || choice > 5) {
+            if (choice == 7 || choice < 1 || choice > 7) {
                 hasScanned = false;
+                printCacheStats();
             }
         }
     }
-    
+
+    /**
+     * In bounded-memory mode, report cache efficiency so the cache can be sized
+     */
+    private void printCacheStats() {
+        if (repository instanceof BoundedVehicleRepository) {
+            System.out.println(((BoundedVehicleRepository) repository).getCacheStats());
+        }
+    }
+
     private void vehicleUI() {
         System.out.println("\n======================");
         System.out.println("Vehicle Rental System");
@@ -89,7 +129,9 @@ public class ScanData {
         System.out.println("2. Add a Vehicle");
         System.out.println("3. Remove a Vehicle");
         System.out.println("4. Updating a Vehicle");
-        System.out.println("5. Exit");
+        System.out.println("5. Book a Vehicle");
+        System.out.println("6. Find Available Vehicles");
+        System.out.println("7. Exit");
 
         System.out.print("Enter your choice: ");
     }
@@ -0,0 +1,179 @@
+package Services;
+
+import Repository.VehicleRepositoryInterface;
+import Repository.VehicleWrite;
+import Validators.ValidationResult;
+import Validators.VehicleValidator;
+import Vehicles.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous facade over VehicleRepositoryInterface
+ * Single Responsibility: Same business rules as VehicleService, but non-blocking and without printing
+ * <p>
+ * - Validation runs on the caller's thread; invalid vehicles never reach the I/O thread
+ * - All repository I/O runs on one dedicated "vehicle-io" thread, so the file is never written concurrently
+ * - Group commit: writes submitted while the I/O thread is busy wait in a queue, and the next
+ *   drain hands ALL of them to repository.applyAll() - many callers, one file write
+ * <p>
+ * Think of this like dispatching a Laravel queued job and getting a promise back
+ */
+public class AsyncVehicleService implements AutoCloseable {
+
+    private final VehicleRepositoryInterface repository;
+    private final VehicleValidator validator;
+    private final ExecutorService ioExecutor;
+    private final ConcurrentLinkedQueue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    public AsyncVehicleService(VehicleRepositoryInterface repository, VehicleValidator validator) {
+        this.repository = repository;
+        this.validator = validator;
+        this.ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "vehicle-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<ServiceResult> addVehicle(Vehicle vehicle) {
+        ValidationResult validationResult = validator.validate(vehicle);
+        if (!validationResult.isValid()) {
+            return CompletableFuture.completedFuture(ServiceResult.validationFailed(validationResult));
+        }
+        return submit(VehicleWrite.save(vehicle));
+    }
+
+    public CompletableFuture<ServiceResult> updateVehicle(Vehicle vehicle) {
+        ValidationResult validationResult = validator.validate(vehicle);
+        if (!validationResult.isValid()) {
+            return CompletableFuture.completedFuture(ServiceResult.validationFailed(validationResult));
+        }
+        return submit(VehicleWrite.update(vehicle));
+    }
+
+    public CompletableFuture<ServiceResult> deleteVehicleById(String vehicleId) {
+        if (vehicleId == null || vehicleId.trim().isEmpty()) {
+            ValidationResult validationResult = new ValidationResult();
+            validationResult.addError("Vehicle ID cannot be empty.");
+            return CompletableFuture.completedFuture(ServiceResult.validationFailed(validationResult));
+        }
+        return submit(VehicleWrite.delete(vehicleId));
+    }
+
+    /**
+     * Reads go through the same I/O thread, so they see every write submitted before them
+     */
+    public CompletableFuture<ServiceResult> findVehicleById(String vehicleId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                Vehicle vehicle = repository.findById(vehicleId);
+                return vehicle != null ? ServiceResult.success(vehicle) : ServiceResult.notFound(vehicleId);
+            }, ioExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ServiceResult.failed("Vehicle service is shut down."));
+        }
+    }
+
+    /**
+     * Completes exceptionally with RejectedExecutionException once the service is closed
+     */
+    public CompletableFuture<List<Vehicle>> findAllVehicles() {
+        try {
+            return CompletableFuture.supplyAsync(repository::findAll, ioExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Stop accepting work and wait for queued writes to reach the disk
+     */
+    @Override
+    public void close() {
+        ioExecutor.shutdown();
+        try {
+            if (!ioExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.err.println("Warning: Vehicle writes still pending after shutdown timeout.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<ServiceResult> submit(VehicleWrite write) {
+        PendingWrite pending = new PendingWrite(write);
+        pendingWrites.add(pending);
+        // One drain task per write; whichever runs first commits everything queued so far,
+        // later ones find the queue empty and return immediately
+        try {
+            ioExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            pendingWrites.remove(pending);
+            pending.future.complete(ServiceResult.failed("Vehicle service is shut down."));
+        }
+        return pending.future;
+    }
+
+    /**
+     * Runs on the I/O thread: commit every queued write in one repository call
+     */
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>();
+        PendingWrite next;
+        while ((next = pendingWrites.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<VehicleWrite> writes = new ArrayList<>(batch.size());
+        for (PendingWrite pending : batch) {
+            writes.add(pending.write);
+        }
+
+        try {
+            List<VehicleWrite.Outcome> outcomes = repository.applyAll(writes);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(toResult(batch.get(i).write, outcomes.get(i)));
+            }
+        } catch (RuntimeException e) {
+            for (PendingWrite pending : batch) {
+                pending.future.complete(ServiceResult.failed("Error writing vehicles: " + e.getMessage()));
+            }
+        }
+    }
+
+    private static ServiceResult toResult(VehicleWrite write, VehicleWrite.Outcome outcome) {
+        switch (outcome) {
+            case APPLIED:
+                return ServiceResult.success(write.getVehicle());
+            case NOT_FOUND:
+                return ServiceResult.notFound(write.getId());
+            case CONFLICT:
+                return ServiceResult.conflict(write.getId());
+            default:
+                return ServiceResult.failed("Failed to write vehicle " + write.getId() + " to storage.");
+        }
+    }
+
+    /**
+     * A write waiting for the next group commit, with the future its caller is holding
+     */
+    private static class PendingWrite {
+        private final VehicleWrite write;
+        private final CompletableFuture<ServiceResult> future = new CompletableFuture<>();
+
+        private PendingWrite(VehicleWrite write) {
+            this.write = write;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package Services;
+
+import Bookings.AvailabilityQuery;
+import Bookings.Booking;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Scanner;
+
+/**
+ * Single Responsibility Principle: Handle booking input ONLY
+ * Dates are typed as "yyyy-MM-dd HH:mm" in the local time zone
+ */
+public class BookingInputService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final Scanner scanner;
+
+    public BookingInputService(Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    public Booking getBookingFromUser() {
+        // Clear any leftover newline
+        scanner.nextLine();
+
+        System.out.print("Enter vehicle UUID OR ID: ");
+        String vehicleId = scanner.nextLine().trim();
+
+        System.out.print("Enter customer name: ");
+        String customerName = scanner.nextLine().trim();
+
+        long start = getDateTime("Enter start (yyyy-MM-dd HH:mm): ");
+        long end = getDateTime("Enter end (yyyy-MM-dd HH:mm): ");
+
+        return new Booking(vehicleId, customerName, start, end);
+    }
+
+    public AvailabilityQuery getAvailabilityQueryFromUser() {
+        scanner.nextLine();
+
+        long start = getDateTime("Enter start (yyyy-MM-dd HH:mm): ");
+        long end = getDateTime("Enter end (yyyy-MM-dd HH:mm): ");
+
+        System.out.print("Enter brand (empty for any): ");
+        String brand = scanner.nextLine().trim();
+
+        double minPrice = getPrice("Enter minimum price (empty for none): ", 0);
+        double maxPrice = getPrice("Enter maximum price (empty for none): ", Double.MAX_VALUE);
+
+        return new AvailabilityQuery(start, end, brand, minPrice, maxPrice);
+    }
+
+    public static String formatDateTime(long epochMillis) {
+        return DATE_FORMAT.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    /**
+     * Keeps asking until the date parses; unlike price there is no safe default for a date
+     */
+    private long getDateTime(String prompt) {
+        while (true) {
+            System.out.print(prompt);
+            try {
+                LocalDateTime dateTime = LocalDateTime.parse(scanner.nextLine().trim(), DATE_FORMAT);
+                return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                System.out.println("Invalid date format. Please use yyyy-MM-dd HH:mm.");
+            }
+        }
+    }
+
+    private double getPrice(String prompt, double defaultValue) {
+        System.out.print(prompt);
+        String input = scanner.nextLine().trim();
+        if (input.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(input);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid price format. Ignoring this filter.");
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package Services;
+
+import Bookings.AvailabilityQuery;
+import Bookings.Booking;
+import Bookings.BookingCalendar;
+import Bookings.VehicleCatalog;
+import Repository.BookingRepositoryInterface;
+import Repository.VehicleRepositoryInterface;
+import Validators.BookingValidator;
+import Validators.ValidationResult;
+import Vehicles.Vehicle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Business logic for rentals: book, cancel, and "which vehicles are free between T1 and T2?"
+ * Dependency Inversion: Depends on the repository interfaces, not the JSON classes
+ * <p>
+ * All bookings are loaded once into a BookingCalendar; every write goes to the calendar
+ * and to the repository, so conflict checks never touch the disk.
+ * The fleet's brand and price are loaded once into a VehicleCatalog, so an availability search
+ * only looks up the vehicles that match its filters. Whoever adds, updates or deletes vehicles
+ * must tell this service (vehicleSaved / vehicleDeleted) to keep the catalog current.
+ */
+public class BookingService {
+
+    private final BookingRepositoryInterface bookingRepository;
+    private final VehicleRepositoryInterface vehicleRepository;
+    private final BookingValidator validator;
+    private final BookingCalendar calendar = new BookingCalendar();
+    private final VehicleCatalog catalog = new VehicleCatalog();
+
+    public BookingService(BookingRepositoryInterface bookingRepository,
+                          VehicleRepositoryInterface vehicleRepository,
+                          BookingValidator validator) {
+        this.bookingRepository = bookingRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.validator = validator;
+
+        for (Booking booking : bookingRepository.findAll()) {
+            if (!calendar.add(booking)) {
+                System.err.println("Warning: Skipping booking " + booking.getUuid() + " that overlaps another booking.");
+            }
+        }
+        vehicleRepository.forEach(catalog::put);
+    }
+
+    /**
+     * Book a vehicle if it exists and is free for the whole range
+     */
+    public synchronized ServiceResult bookVehicle(Booking booking) {
+        ValidationResult validationResult = validator.validate(booking);
+        if (!validationResult.isValid()) {
+            return ServiceResult.validationFailed(validationResult);
+        }
+
+        Vehicle vehicle = vehicleRepository.findById(booking.getVehicleUuid());
+        if (vehicle == null) {
+            return ServiceResult.notFound(booking.getVehicleUuid());
+        }
+
+        Booking conflict = calendar.findConflict(booking.getVehicleUuid(), booking.getStartTime(), booking.getEndTime());
+        if (conflict != null) {
+            return ServiceResult.bookingConflict(booking.getVehicleUuid(), conflict.getUuid());
+        }
+
+        calendar.add(booking);
+        if (!bookingRepository.save(booking)) {
+            calendar.remove(booking.getUuid());
+            return ServiceResult.failed("Failed to save booking to storage.");
+        }
+        return ServiceResult.success(vehicle);
+    }
+
+    public synchronized ServiceResult cancelBooking(String bookingId) {
+        Booking booking = calendar.findById(bookingId);
+        if (booking == null) {
+            return ServiceResult.bookingNotFound(bookingId);
+        }
+        if (!bookingRepository.delete(bookingId)) {
+            return ServiceResult.failed("Failed to delete booking from storage.");
+        }
+        calendar.remove(bookingId);
+        return ServiceResult.success(vehicleRepository.findById(booking.getVehicleUuid()));
+    }
+
+    /**
+     * Called when a vehicle is deleted, so its bookings don't linger in bookings.json
+     */
+    public synchronized int cancelBookingsForVehicle(String vehicleUuid) {
+        if (calendar.getBookings(vehicleUuid).isEmpty() || !bookingRepository.deleteByVehicle(vehicleUuid)) {
+            return 0;
+        }
+        return calendar.removeVehicle(vehicleUuid);
+    }
+
+    /**
+     * Keep the catalog in step with a vehicle that was just added or updated
+     */
+    public synchronized void vehicleSaved(Vehicle vehicle) {
+        catalog.put(vehicle);
+    }
+
+    /**
+     * Called when a vehicle is deleted: drop it from the catalog and cancel its bookings
+     * Returns how many bookings were cancelled
+     */
+    public synchronized int vehicleDeleted(String vehicleUuid) {
+        catalog.remove(vehicleUuid);
+        return cancelBookingsForVehicle(vehicleUuid);
+    }
+
+    /**
+     * Uuids of the free vehicles, answered from memory: the catalog picks the vehicles in the brand
+     * and price range, and only those get an O(log n) calendar lookup
+     */
+    public synchronized List<String> findAvailableVehicleIds(AvailabilityQuery query) {
+        List<String> available = new ArrayList<>();
+        catalog.forEachMatching(query.getBrand(), query.getMinPrice(), query.getMaxPrice(), vehicleUuid -> {
+            if (calendar.isAvailable(vehicleUuid, query.getStartTime(), query.getEndTime())) {
+                available.add(vehicleUuid);
+            }
+        });
+        return available;
+    }
+
+    /**
+     * Same search, with the full vehicle records loaded from the repository for display
+     */
+    public List<Vehicle> findAvailableVehicles(AvailabilityQuery query) {
+        List<String> available = findAvailableVehicleIds(query);
+        return available.isEmpty() ? new ArrayList<>() : vehicleRepository.findAllById(available);
+    }
+
+    public synchronized List<Booking> getBookingsForVehicle(String vehicleUuid) {
+        return calendar.getBookings(vehicleUuid);
+    }
+}
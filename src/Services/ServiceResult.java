@@ -0,0 +1,90 @@
+package Services;
+
+import Validators.ValidationResult;
+import Vehicles.Vehicle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Structured outcome of an AsyncVehicleService or BookingService call
+ * Instead of printing to System.out, the service tells the caller what happened
+ * and the caller decides how to show it (like returning a Laravel JsonResponse with a status code)
+ * <p>
+ * Vehicle writes use notFound()/conflict(); bookings use bookingNotFound()/bookingConflict(),
+ * which share the same statuses but describe the booking in the error message.
+ */
+public class ServiceResult {
+
+    public enum Status {
+        SUCCESS, VALIDATION_FAILED, NOT_FOUND, CONFLICT, FAILED
+    }
+
+    private final Status status;
+    private final Vehicle vehicle;
+    private final List<String> errors;
+
+    private ServiceResult(Status status, Vehicle vehicle, List<String> errors) {
+        this.status = status;
+        this.vehicle = vehicle;
+        this.errors = errors;
+    }
+
+    public static ServiceResult success(Vehicle vehicle) {
+        return new ServiceResult(Status.SUCCESS, vehicle, Collections.emptyList());
+    }
+
+    public static ServiceResult validationFailed(ValidationResult validationResult) {
+        return new ServiceResult(Status.VALIDATION_FAILED, null, validationResult.getErrors());
+    }
+
+    public static ServiceResult notFound(String vehicleId) {
+        return new ServiceResult(Status.NOT_FOUND, null,
+                Collections.singletonList("Vehicle with ID " + vehicleId + " not found."));
+    }
+
+    public static ServiceResult conflict(String vehicleId) {
+        return new ServiceResult(Status.CONFLICT, null,
+                Collections.singletonList("Vehicle with ID " + vehicleId + " already exists."));
+    }
+
+    public static ServiceResult bookingNotFound(String bookingId) {
+        return new ServiceResult(Status.NOT_FOUND, null,
+                Collections.singletonList("Booking with ID " + bookingId + " not found."));
+    }
+
+    public static ServiceResult bookingConflict(String vehicleId, String existingBookingId) {
+        return new ServiceResult(Status.CONFLICT, null,
+                Collections.singletonList("Vehicle with ID " + vehicleId
+                        + " is already booked for that time (booking " + existingBookingId + ")."));
+    }
+
+    public static ServiceResult failed(String error) {
+        return new ServiceResult(Status.FAILED, null, Collections.singletonList(error));
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * The vehicle that was saved/updated/found - or, for a booking or cancellation, the vehicle
+     * it was for - null when the call did not succeed
+     */
+    public Vehicle getVehicle() {
+        return vehicle;
+    }
+
+    public List<String> getErrors() {
+        return new ArrayList<>(errors); // Return a copy for immutability
+    }
+
+    public String getErrorMessage() {
+        return String.join(", ", errors);
+    }
+}
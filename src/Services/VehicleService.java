@@ -5,8 +5,6 @@ import Validators.ValidationResult;
 import Validators.VehicleValidator;
 import Vehicles.Vehicle;
 
-import java.util.List;
-
 /**
  * Single Responsibility: Business logic for adding vehicles
  * Open/Closed Principle: Open for extension (can add more features) but closed for modification
@@ -30,30 +28,33 @@ public class VehicleService {
 
 
     public void listVehicles() {
-        List<Vehicle> vehicles = repository.findAll();
+        // Stream through the repository and count as we go: one pass over the storage,
+        // and large fleets are never loaded at once
+        int[] total = {0};
+        repository.forEach(vehicle -> {
+            if (total[0] == 0) {
+                System.out.println("-------------------");
+            }
+            System.out.println((++total[0]) + ". [" + vehicle.getUuid() + "] ");
+            System.out.println(("   name") + ". " + vehicle.getName());
+            System.out.println("   Brand: " + vehicle.getBrand());
+            System.out.println("   Price: $" + String.format("%.2f", vehicle.getPrice()));
+            System.out.println();
+        });
 
-        if (vehicles.isEmpty()) {
+        if (total[0] == 0) {
             System.out.println("No vehicles found in the system.");
             return;
         }
 
-        System.out.println("Total vehicles: " + vehicles.size());
         System.out.println("-------------------");
-
-        for (int i = 0; i < vehicles.size(); i++) {
-            Vehicle vehicle = vehicles.get(i);
-            System.out.println((i + 1) + ". [" + vehicle.getUuid() + "] ");
-            System.out.println(("   name") + ". " + vehicle.getName());
-            System.out.println("   Brand: " + vehicle.getBrand());
-            System.out.println("   Price: $" + String.format("%.2f", vehicle.getPrice()));
-            System.out.println();
-        }
+        System.out.println("Total vehicles: " + total[0]);
     }
     /**
      * Add a vehicle with validation
      * Returns true if successful, false otherwise
      */
-    public void addVehicle(Vehicle vehicle) {
+    public boolean addVehicle(Vehicle vehicle) {
         // Validate the vehicle
         ValidationResult validationResult = validator.validate(vehicle);
 
@@ -62,7 +63,7 @@ public class VehicleService {
             for (String error : validationResult.getErrors()) {
                 System.out.println("  - " + error);
             }
-            return;
+            return false;
         }
 
         // Save to repository
@@ -76,11 +77,13 @@ public class VehicleService {
         } else {
             System.out.println("✗ Failed to save vehicle to storage.");
         }
+
+        return saved;
     }
 
 
 
-    public void updateVehicle(Vehicle vehicle) {
+    public boolean updateVehicle(Vehicle vehicle) {
         // Validate the vehicle
         ValidationResult validationResult = validator.validate(vehicle);
 
@@ -89,7 +92,7 @@ public class VehicleService {
             for (String error : validationResult.getErrors()) {
                 System.out.println("  - " + error);
             }
-            return;
+            return false;
         }
 
         // Update in repository
@@ -103,6 +106,8 @@ public class VehicleService {
         } else {
             System.out.println("✗ Failed to update vehicle in storage.");
         }
+
+        return updated;
     }
 
     public boolean deleteVehicleById(String vehicleId) {
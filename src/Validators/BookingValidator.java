@@ -0,0 +1,37 @@
+package Validators;
+
+import Bookings.Booking;
+
+/**
+ * Single Responsibility Principle (SRP): Validate booking data only
+ * Whether the vehicle exists or is free is BookingService's job, not the validator's
+ */
+public class BookingValidator {
+
+    public ValidationResult validate(Booking booking) {
+        ValidationResult result = new ValidationResult();
+
+        if (booking == null) {
+            result.addError("Booking cannot be null.");
+            return result;
+        }
+
+        if (booking.getVehicleUuid() == null || booking.getVehicleUuid().trim().isEmpty()) {
+            result.addError("Vehicle ID cannot be empty.");
+        }
+
+        if (booking.getCustomerName() == null || booking.getCustomerName().trim().isEmpty()) {
+            result.addError("Customer name cannot be empty.");
+        }
+
+        if (booking.getStartTime() <= 0) {
+            result.addError("Booking start must be a valid date.");
+        }
+
+        if (booking.getEndTime() <= booking.getStartTime()) {
+            result.addError("Booking end must be after its start.");
+        }
+
+        return result;
+    }
+}
@@ -25,6 +25,11 @@ public class Vehicle {
         this.price = price;
     }
 
+    // copy with the same UUID, so repositories and caches never share a mutable instance with callers
+    public Vehicle copy() {
+        return new Vehicle(uuid, name, brand, price);
+    }
+
     public String getUuid() {
         return uuid;
     }